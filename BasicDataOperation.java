@@ -1,4 +1,7 @@
+import java.io.IOException;
+import java.time.Instant;
 import java.time.LocalDate;
+import java.time.LocalTime;
 import java.time.format.DateTimeFormatter;
 
 /**
@@ -19,26 +22,41 @@ import java.time.format.DateTimeFormatter;
  * <p>Приклад використання:</p>
  * <pre>
  * {@code
- * java BasicDataOperation "2024-03-16" list
- * java BasicDataOperation "2024-03-16" queue  
- * java BasicDataOperation "2024-03-16" set
- * java BasicDataOperation "2024-03-16" all
+ * java BasicDataOperation "2024-03-16"
+ * java BasicDataOperation "2024-03-16" 10 sketch
+ * java BasicDataOperation "2024-03-16" 10 sketch-only
+ * java BasicDataOperation "2025-06-21" 09:00-10:30
  * }
  * </pre>
  */
 public class BasicDataOperation {
-    static final String PATH_TO_DATA_FILE = "list/LocalDate.data.sorted";
+    // шлях можна перевизначити, наприклад -Ddata.file=list/LocalDate.1m.data для файлу з DateDatasetGenerator
+    static final String PATH_TO_DATA_FILE = System.getProperty("data.file", "list/LocalDate.data.sorted");
+    // період перевірки файлу даних у мс (-Ddata.reload.millis=500); 0 вимикає фонове перезавантаження
+    static final long RELOAD_PERIOD_MILLIS = Long.getLong("data.reload.millis", 0L);
+    static final String PATH_TO_TIMESTAMP_FILE = System.getProperty("timestamp.file", "list/LocalDateTime.data");
 
     LocalDate dateTimeValueToSearch;
-    LocalDate[] dateTimeArray;
+    DateDatasetStore datasetStore;
+    int topFrequentCount = DEFAULT_TOP_FREQUENT_COUNT;
+    boolean useSketches;
+    boolean sketchOnly;
+    LocalTime rangeStart = LocalTime.MIDNIGHT;
+    LocalTime rangeEnd = LocalTime.MIDNIGHT;
+
+    private static final int DEFAULT_TOP_FREQUENT_COUNT = 5;
 
     private static final String SEPARATOR = "\n" + "=".repeat(80) + "\n";
-    private static final String USAGE_MESSAGE = "Використання: java BasicDataOperation <пошукове-значення> \n" +
+    private static final String USAGE_MESSAGE = "Використання: java BasicDataOperation <пошукове-значення> [кількість-найчастіших-дат] [sketch|sketch-only] [ГГ:ХХ-ГГ:ХХ]\n" +
 "Приклад:\n" +
-"  java BasicDataOperation \"2025-01-02\"         // дата у форматі YYYY-MM-DD";
+"  java BasicDataOperation \"2025-01-02\"         // дата у форматі YYYY-MM-DD\n" +
+"  java BasicDataOperation \"2025-01-02\" 10      // також вивести 10 найчастіших дат\n" +
+"  java BasicDataOperation \"2025-01-02\" sketch  // також оцінити частоти через count-min sketch і HyperLogLog\n" +
+"  java BasicDataOperation \"2025-01-02\" sketch-only  // лише скетчі, без масиву дат у пам'яті (для дуже великих файлів)\n" +
+"  java BasicDataOperation \"2025-06-21\" 09:00-10:30  // кількість подій з LocalDateTime.data за цей проміжок доби (UTC)";
 
     public static void main(String[] args) {
-        if (args.length != 1) {
+        if (args.length < 1 || args.length > 4) {
             System.out.println(USAGE_MESSAGE);
             return;
         }
@@ -58,6 +76,41 @@ public class BasicDataOperation {
         }
 
         BasicDataOperation coordinator = new BasicDataOperation();
+
+        // Розбір необов'язкових параметрів аналізу частот і часових міток
+        for (int i = 1; i < args.length; i++) {
+            if (args[i].equalsIgnoreCase("sketch")) {
+                coordinator.useSketches = true;
+            } else if (args[i].equalsIgnoreCase("sketch-only")) {
+                coordinator.useSketches = true;
+                coordinator.sketchOnly = true;
+            } else if (args[i].contains(":")) {
+                try {
+                    String[] rangeBounds = args[i].split("-", -1);
+                    if (rangeBounds.length != 2) {
+                        throw new IllegalArgumentException("Очікується рівно дві межі проміжку: " + args[i]);
+                    }
+                    coordinator.rangeStart = LocalTime.parse(rangeBounds[0]);
+                    coordinator.rangeEnd = LocalTime.parse(rangeBounds[1]);
+                } catch (Exception e) {
+                    System.out.println("Помилка: Невірний проміжок часу. Використовуйте формат ГГ:ХХ-ГГ:ХХ (наприклад: 09:00-10:30)");
+                    return;
+                }
+            } else {
+                try {
+                    coordinator.topFrequentCount = Integer.parseInt(args[i]);
+                } catch (NumberFormatException e) {
+                    System.out.println(USAGE_MESSAGE);
+                    return;
+                }
+                if (coordinator.topFrequentCount <= 0) {
+                    System.out.println("Помилка: Кількість найчастіших дат має бути додатною");
+                    System.out.println(USAGE_MESSAGE);
+                    return;
+                }
+            }
+        }
+
         coordinator.executeOperations(args);
     }
 
@@ -74,10 +127,48 @@ public class BasicDataOperation {
         System.out.println(SEPARATOR);
         
         // Підготовка даних та перевірка формату
-            dateTimeValueToSearch = LocalDate.parse(args[0], DateTimeFormatter.ISO_DATE);
-        dateTimeArray = DataFileHandler.loadArrayFromFile(PATH_TO_DATA_FILE);
+            dateTimeValueToSearch = LocalDate.parse(args[0].split("T")[0], DateTimeFormatter.ISO_DATE);
+
+        if (sketchOnly) {
+            // масив дат не будується, тож обробка колекцій недоступна
+            runSketchOnlyFrequencyAnalysis();
+
+            System.out.println(SEPARATOR);
+            System.out.println("✅ АНАЛІЗ ЗАВЕРШЕНО ✅");
+            System.out.println(SEPARATOR);
+            return;
+        }
+
+        datasetStore = new DateDatasetStore(PATH_TO_DATA_FILE, useSketches);
+        try {
+            datasetStore.reload();
+        } catch (IOException | RuntimeException e) {
+            System.out.println("❌ Помилка при завантаженні даних: " + e.getMessage());
+            datasetStore.close();
+            return;
+        }
+        if (RELOAD_PERIOD_MILLIS > 0) {
+            datasetStore.startAutoReload(RELOAD_PERIOD_MILLIS);
+        }
+
+        // один знімок на весь прогін: порівняння List, Queue і Set ведеться на тій самій версії даних,
+        // навіть якщо фоновий завантажувач тим часом опублікує нову
+        DateDatasetSnapshot datasetSnapshot = datasetStore.current();
+        System.out.println("Версія даних: " + datasetSnapshot.getVersion() + " (" + datasetSnapshot.getSourcePath()
+                + ", " + datasetSnapshot.size() + " записів, завантажено " + Instant.ofEpochMilli(datasetSnapshot.getLoadedAtMillis()) + ")");
         
-        runAllOperations();
+        runAllOperations(datasetSnapshot);
+        System.out.println("\n" + "~".repeat(60) + "\n");
+        runFrequencyAnalysis(datasetSnapshot);
+        System.out.println("\n" + "~".repeat(60) + "\n");
+        runTimestampAnalysis();
+
+        DateDatasetSnapshot latestSnapshot = datasetStore.current();
+        if (latestSnapshot.getVersion() != datasetSnapshot.getVersion()) {
+            System.out.println("Під час аналізу опубліковано нову версію даних: " + latestSnapshot.getVersion()
+                    + " (" + latestSnapshot.size() + " записів)");
+        }
+        datasetStore.close();
 
         System.out.println(SEPARATOR);
         System.out.println("✅ АНАЛІЗ ЗАВЕРШЕНО ✅");
@@ -87,16 +178,16 @@ public class BasicDataOperation {
     /**
      * Запускає операції з колекцією List.
      * 
-     * @param args Аргументи для передачі до класу
+     * @param datasetSnapshot Знімок даних для обробки
      */
-    private void runListOperations() {
+    private void runListOperations(DateDatasetSnapshot datasetSnapshot) {
         System.out.println("📋 ОБРОБКА ДАНИХ З ВИКОРИСТАННЯМ LIST");
-        System.out.println("Розмір даних: " + dateTimeArray.length + " записів");
+        System.out.println("Розмір даних: " + datasetSnapshot.size() + " записів");
         System.out.println("-".repeat(50));
         
         try {
-            // Створення екземпляру класу з передаванням даних
-            BasicDataOperationUsingList listProcessor = new BasicDataOperationUsingList(dateTimeValueToSearch, dateTimeArray);
+            // Створення екземпляру класу з передаванням даних; обробник сортує власну копію масиву, а не спільні дані знімка
+            BasicDataOperationUsingList listProcessor = new BasicDataOperationUsingList(dateTimeValueToSearch, datasetSnapshot.copyOfDates());
             listProcessor.executeDataOperations();
         } catch (Exception e) {
             System.out.println("❌ Помилка при роботі з List: " + e.getMessage());
@@ -107,16 +198,16 @@ public class BasicDataOperation {
     /**
      * Запускає операції з колекцією Queue.
      * 
-     * @param args Аргументи для передачі до класу
+     * @param datasetSnapshot Знімок даних для обробки
      */
-    private void runQueueOperations() {
+    private void runQueueOperations(DateDatasetSnapshot datasetSnapshot) {
         System.out.println("🔄 ОБРОБКА ДАНИХ З ВИКОРИСТАННЯМ QUEUE");
-        System.out.println("Розмір даних: " + dateTimeArray.length + " записів");
+        System.out.println("Розмір даних: " + datasetSnapshot.size() + " записів");
         System.out.println("-".repeat(50));
         
         try {
             // Створення екземпляру класу з передаванням даних
-            BasicDataOperationUsingQueue queueProcessor = new BasicDataOperationUsingQueue(dateTimeValueToSearch, dateTimeArray);
+            BasicDataOperationUsingQueue queueProcessor = new BasicDataOperationUsingQueue(dateTimeValueToSearch, datasetSnapshot.copyOfDates());
             queueProcessor.runDataProcessing();
         } catch (Exception e) {
             System.out.println("❌ Помилка при роботі з Queue: " + e.getMessage());
@@ -127,16 +218,16 @@ public class BasicDataOperation {
     /**
      * Запускає операції з колекцією Set.
      * 
-     * @param args Аргументи для передачі до класу
+     * @param datasetSnapshot Знімок даних для обробки
      */
-    private void runSetOperations() {
+    private void runSetOperations(DateDatasetSnapshot datasetSnapshot) {
         System.out.println("🔍 ОБРОБКА ДАНИХ З ВИКОРИСТАННЯМ SET");
-        System.out.println("Розмір даних: " + dateTimeArray.length + " записів");
+        System.out.println("Розмір даних: " + datasetSnapshot.size() + " записів");
         System.out.println("-".repeat(50));
         
         try {
             // Створення екземпляру класу з передаванням даних           
-            BasicDataOperationUsingSet setProcessor = new BasicDataOperationUsingSet(dateTimeValueToSearch, dateTimeArray);
+            BasicDataOperationUsingSet setProcessor = new BasicDataOperationUsingSet(dateTimeValueToSearch, datasetSnapshot.copyOfDates());
             setProcessor.executeDataAnalysis();
         } catch (Exception e) {
             System.out.println("❌ Помилка при роботі з Set: " + e.getMessage());
@@ -144,24 +235,71 @@ public class BasicDataOperation {
         }
     }
 
+    /**
+     * Виводить частоти дат, підраховані під час завантаження файлу.
+     * 
+     * @param datasetSnapshot Знімок даних для аналізу
+     */
+    private void runFrequencyAnalysis(DateDatasetSnapshot datasetSnapshot) {
+        System.out.println("📊 АНАЛІЗ ЧАСТОТ ДАТ");
+        System.out.println("Розмір даних: " + datasetSnapshot.size() + " записів");
+        System.out.println("-".repeat(50));
+
+        datasetSnapshot.getFrequencyAnalyzer().printReport(dateTimeValueToSearch, topFrequentCount);
+    }
+
+    /**
+     * Оцінює частоти дат за один потоковий прохід по файлу без збереження масиву дат.
+     */
+    private void runSketchOnlyFrequencyAnalysis() {
+        System.out.println("📊 АНАЛІЗ ЧАСТОТ ДАТ (ЛИШЕ СКЕТЧІ)");
+        System.out.println("-".repeat(50));
+
+        try {
+            DateFrequencyAnalyzer frequencyAnalyzer = DateFrequencyAnalyzer.sketchOnly(topFrequentCount);
+            DataFileHandler.scanFileIntoAnalyzer(PATH_TO_DATA_FILE, frequencyAnalyzer);
+            frequencyAnalyzer.printReport(dateTimeValueToSearch, topFrequentCount);
+        } catch (Exception e) {
+            System.out.println("❌ Помилка при оцінці частот: " + e.getMessage());
+            e.printStackTrace();
+        }
+    }
+
+    /**
+     * Будує індекс часових міток з файлу LocalDateTime та виконує запити за діапазоном.
+     */
+    private void runTimestampAnalysis() {
+        System.out.println("🕒 АНАЛІЗ ЧАСОВИХ МІТОК");
+        System.out.println("Файл даних: " + PATH_TO_TIMESTAMP_FILE);
+        System.out.println("-".repeat(50));
+
+        try {
+            TimestampIndex timestampIndex = new TimestampIndex(DataFileHandler.loadEpochSecondsFromFile(PATH_TO_TIMESTAMP_FILE));
+            timestampIndex.printReport(dateTimeValueToSearch, rangeStart, rangeEnd);
+        } catch (Exception e) {
+            System.out.println("❌ Помилка при роботі з часовими мітками: " + e.getMessage());
+            e.printStackTrace();
+        }
+    }
+
     /**
      * Запускає операції з усіма типами колекцій для порівняння.
      * 
-     * @param args Аргументи для передачі до класів
+     * @param datasetSnapshot Знімок даних для обробки
      */
-    private void runAllOperations() {
+    private void runAllOperations(DateDatasetSnapshot datasetSnapshot) {
         System.out.println("🎯 КОМПЛЕКСНИЙ АНАЛІЗ ВСІХ СТРУКТУР ДАНИХ");
         System.out.println("=".repeat(60));
         
         // Обробка List
-        runListOperations();
+        runListOperations(datasetSnapshot);
         System.out.println("\n" + "~".repeat(60) + "\n");
         
         // Обробка Queue  
-        runQueueOperations();
+        runQueueOperations(datasetSnapshot);
         System.out.println("\n" + "~".repeat(60) + "\n");
         
         // Обробка Set
-        runSetOperations();
+        runSetOperations(datasetSnapshot);
     }
 }
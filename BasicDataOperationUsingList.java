@@ -32,7 +32,9 @@ public class BasicDataOperationUsingList {
     BasicDataOperationUsingList(LocalDate dateValueToSearch, LocalDate[] dateArray) {
         this.dateValueToSearch = dateValueToSearch;
         this.dateArray = dateArray;
+        DataOperationEvents.CollectionBuildEvent buildEvent = DataOperationEvents.beginCollectionBuild("LinkedList", dateArray.length);
         this.dateList = new LinkedList<>(Arrays.asList(dateArray));
+        buildEvent.commit();
     }
     
     /**
@@ -69,22 +71,28 @@ public class BasicDataOperationUsingList {
      * Фіксує та виводить тривалість операції сортування в наносекундах.
      */
     void performArraySorting() {
+        DataOperationEvents.OperationEvent operationEvent = DataOperationEvents.beginOperation("sort", DataOperationEvents.ARRAY, dateArray.length);
         long timeStart = System.nanoTime();
 
         Arrays.sort(dateArray);
+        operationEvent.end();
 
         PerformanceTracker.displayOperationTime(timeStart, "упорядкування масиву дати");
+        operationEvent.commit();
     }
 
     /**
      * Здійснює пошук конкретного значення в масиві дати та часу.
      */
     void findInArray() {
+        DataOperationEvents.OperationEvent operationEvent = DataOperationEvents.beginOperation("search", DataOperationEvents.ARRAY, dateArray.length);
         long timeStart = System.nanoTime();
 
         int position = Arrays.binarySearch(this.dateArray, dateValueToSearch);
+        operationEvent.end();
 
         PerformanceTracker.displayOperationTime(timeStart, "пошук елемента в масивi дати");
+        operationEvent.commit();
 
         if (position >= 0) {
             System.out.println("Елемент '" + dateValueToSearch + "' знайдено в масивi за позицією: " + position);
@@ -102,6 +110,7 @@ public class BasicDataOperationUsingList {
             return;
         }
 
+        DataOperationEvents.OperationEvent operationEvent = DataOperationEvents.beginOperation("minmax", DataOperationEvents.ARRAY, dateArray.length);
         long timeStart = System.nanoTime();
 
         LocalDate minValue = dateArray[0];
@@ -115,8 +124,10 @@ public class BasicDataOperationUsingList {
                 maxValue = currentDate;
             }
         }
+        operationEvent.end();
 
         PerformanceTracker.displayOperationTime(timeStart, "визначення мiнiмальної i максимальної дати в масивi");
+        operationEvent.commit();
 
         System.out.println("Найменше значення в масивi: " + minValue);
         System.out.println("Найбільше значення в масивi: " + maxValue);
@@ -126,11 +137,14 @@ public class BasicDataOperationUsingList {
      * Шукає конкретне значення дати та часу в колекції ArrayList.
      */
     void findInList() {
+        DataOperationEvents.OperationEvent operationEvent = DataOperationEvents.beginOperation("search", dateList.getClass().getSimpleName(), dateList.size());
         long timeStart = System.nanoTime();
 
         int position = Collections.binarySearch(this.dateList, dateValueToSearch);
+        operationEvent.end();
 
         PerformanceTracker.displayOperationTime(timeStart, "пошук елемента в List дати");        
+        operationEvent.commit();
 
         if (position >= 0) {
             System.out.println("Елемент '" + dateValueToSearch + "' знайдено в ArrayList за позицією: " + position);
@@ -148,12 +162,15 @@ public class BasicDataOperationUsingList {
             return;
         }
 
+        DataOperationEvents.OperationEvent operationEvent = DataOperationEvents.beginOperation("minmax", dateList.getClass().getSimpleName(), dateList.size());
         long timeStart = System.nanoTime();
 
         LocalDate minValue = Collections.min(dateList);
         LocalDate maxValue = Collections.max(dateList);
+        operationEvent.end();
 
         PerformanceTracker.displayOperationTime(timeStart, "визначення мiнiмальної i максимальної дати в List");
+        operationEvent.commit();
 
         System.out.println("Найменше значення в List: " + minValue);
         System.out.println("Найбільше значення в List: " + maxValue);
@@ -164,10 +181,13 @@ public class BasicDataOperationUsingList {
      * Відстежує та виводить час виконання операції сортування.
      */
     void sortList() {
+        DataOperationEvents.OperationEvent operationEvent = DataOperationEvents.beginOperation("sort", dateList.getClass().getSimpleName(), dateList.size());
         long timeStart = System.nanoTime();
 
         Collections.sort(dateList);
+        operationEvent.end();
 
         PerformanceTracker.displayOperationTime(timeStart, "упорядкування ArrayList дати");
+        operationEvent.commit();
     }
 }
\ No newline at end of file
@@ -33,7 +33,9 @@ public class BasicDataOperationUsingQueue {
     BasicDataOperationUsingQueue(LocalDate dateValueToSearch, LocalDate[] dateArray) {
         this.dateValueToSearch = dateValueToSearch;
         this.dateArray = dateArray;
+        DataOperationEvents.CollectionBuildEvent buildEvent = DataOperationEvents.beginCollectionBuild("PriorityQueue", dateArray.length);
         this.dateQueue = new PriorityQueue<>(Arrays.asList(dateArray));
+        buildEvent.commit();
     }
     
     /**
@@ -66,11 +68,14 @@ public class BasicDataOperationUsingQueue {
      */
     private void performArraySorting() {
         // вимірюємо тривалість упорядкування масиву дати та часу
+        DataOperationEvents.OperationEvent operationEvent = DataOperationEvents.beginOperation("sort", DataOperationEvents.ARRAY, dateArray.length);
         long timeStart = System.nanoTime();
 
         Arrays.sort(dateArray);
+        operationEvent.end();
 
         PerformanceTracker.displayOperationTime(timeStart, "упорядкування масиву дати i часу");
+        operationEvent.commit();
     }
 
     /**
@@ -78,11 +83,14 @@ public class BasicDataOperationUsingQueue {
      */
     private void findInArray() {
         // відстежуємо час виконання пошуку в масиві
+        DataOperationEvents.OperationEvent operationEvent = DataOperationEvents.beginOperation("search", DataOperationEvents.ARRAY, dateArray.length);
         long timeStart = System.nanoTime();
         
         int position = Arrays.binarySearch(this.dateArray, dateValueToSearch);
+        operationEvent.end();
         
         PerformanceTracker.displayOperationTime(timeStart, "пошук елемента в масивi дати i часу");
+        operationEvent.commit();
 
         if (position >= 0) {
             System.out.println("Елемент '" + dateValueToSearch + "' знайдено в масивi за позицією: " + position);
@@ -101,6 +109,7 @@ public class BasicDataOperationUsingQueue {
         }
 
         // відстежуємо час на визначення граничних значень
+        DataOperationEvents.OperationEvent operationEvent = DataOperationEvents.beginOperation("minmax", DataOperationEvents.ARRAY, dateArray.length);
         long timeStart = System.nanoTime();
 
         LocalDate minValue = dateArray[0];
@@ -114,8 +123,10 @@ public class BasicDataOperationUsingQueue {
                 maxValue = currentDate;
             }
         }
+        operationEvent.end();
 
         PerformanceTracker.displayOperationTime(timeStart, "визначення мiнiмальної i максимальної дати в масивi");
+        operationEvent.commit();
 
         System.out.println("Найменше значення в масивi: " + minValue);
         System.out.println("Найбільше значення в масивi: " + maxValue);
@@ -126,11 +137,14 @@ public class BasicDataOperationUsingQueue {
      */
     private void findInQueue() {
         // вимірюємо час пошуку в черзі
+        DataOperationEvents.OperationEvent operationEvent = DataOperationEvents.beginOperation("search", dateQueue.getClass().getSimpleName(), dateQueue.size());
         long timeStart = System.nanoTime();
 
         boolean elementExists = this.dateQueue.contains(dateValueToSearch);
+        operationEvent.end();
 
         PerformanceTracker.displayOperationTime(timeStart, "пошук елемента в Queue дати i часу");
+        operationEvent.commit();
 
         if (elementExists) {
             System.out.println("Елемент '" + dateValueToSearch + "' знайдено в Queue");
@@ -149,12 +163,15 @@ public class BasicDataOperationUsingQueue {
         }
 
         // відстежуємо час пошуку граничних значень
+        DataOperationEvents.OperationEvent operationEvent = DataOperationEvents.beginOperation("minmax", dateQueue.getClass().getSimpleName(), dateQueue.size());
         long timeStart = System.nanoTime();
 
         LocalDate minValue = Collections.min(dateQueue);
         LocalDate maxValue = Collections.max(dateQueue);
+        operationEvent.end();
 
         PerformanceTracker.displayOperationTime(timeStart, "визначення мiнiмальної i максимальної дати в Queue");
+        operationEvent.commit();
 
         System.out.println("Найменше значення в Queue: " + minValue);
         System.out.println("Найбільше значення в Queue: " + maxValue);
@@ -32,7 +32,9 @@ public class BasicDataOperationUsingSet {
     BasicDataOperationUsingSet(LocalDate dateValueToSearch, LocalDate[] dateArray) {
         this.dateValueToSearch = dateValueToSearch;
         this.dateArray = dateArray;
+        DataOperationEvents.CollectionBuildEvent buildEvent = DataOperationEvents.beginCollectionBuild("HashSet", dateArray.length);
         this.dateSet = new HashSet<>(Arrays.asList(dateArray));
+        buildEvent.commit();
     }
     
     /**
@@ -64,22 +66,28 @@ public class BasicDataOperationUsingSet {
      * Фіксує та виводить тривалість операції сортування в наносекундах.
      */
     private void performArraySorting() {
+        DataOperationEvents.OperationEvent operationEvent = DataOperationEvents.beginOperation("sort", DataOperationEvents.ARRAY, dateArray.length);
         long timeStart = System.nanoTime();
 
         Arrays.sort(dateArray);
+        operationEvent.end();
 
         PerformanceTracker.displayOperationTime(timeStart, "упорядкування масиву дати i часу");
+        operationEvent.commit();
     }
 
     /**
      * Здійснює пошук конкретного значення в масиві дати та часу.
      */
     private void findInArray() {
+        DataOperationEvents.OperationEvent operationEvent = DataOperationEvents.beginOperation("search", DataOperationEvents.ARRAY, dateArray.length);
         long timeStart = System.nanoTime();
 
         int position = Arrays.binarySearch(this.dateArray, dateValueToSearch);
+        operationEvent.end();
 
         PerformanceTracker.displayOperationTime(timeStart, "пошук елемента в масивi дати i часу");
+        operationEvent.commit();
 
         if (position >= 0) {
             System.out.println("Елемент '" + dateValueToSearch + "' знайдено в масивi за позицією: " + position);
@@ -97,6 +105,7 @@ public class BasicDataOperationUsingSet {
             return;
         }
 
+        DataOperationEvents.OperationEvent operationEvent = DataOperationEvents.beginOperation("minmax", DataOperationEvents.ARRAY, dateArray.length);
         long timeStart = System.nanoTime();
 
         LocalDate minValue = dateArray[0];
@@ -110,8 +119,10 @@ public class BasicDataOperationUsingSet {
                 maxValue = currentDate;
             }
         }
+        operationEvent.end();
 
         PerformanceTracker.displayOperationTime(timeStart, "визначення мiнiмальної i максимальної дати в масивi");
+        operationEvent.commit();
 
         System.out.println("Найменше значення в масивi: " + minValue);
         System.out.println("Найбільше значення в масивi: " + maxValue);
@@ -121,11 +132,14 @@ public class BasicDataOperationUsingSet {
      * Здійснює пошук конкретного значення в множині дати та часу.
      */
     private void findInSet() {
+        DataOperationEvents.OperationEvent operationEvent = DataOperationEvents.beginOperation("search", dateSet.getClass().getSimpleName(), dateSet.size());
         long timeStart = System.nanoTime();
 
         boolean elementExists = this.dateSet.contains(dateValueToSearch);
+        operationEvent.end();
 
         PerformanceTracker.displayOperationTime(timeStart, "пошук елемента в HashSet дати i часу");
+        operationEvent.commit();
 
         if (elementExists) {
             System.out.println("Елемент '" + dateValueToSearch + "' знайдено в HashSet");
@@ -143,12 +157,15 @@ public class BasicDataOperationUsingSet {
             return;
         }
 
+        DataOperationEvents.OperationEvent operationEvent = DataOperationEvents.beginOperation("minmax", dateSet.getClass().getSimpleName(), dateSet.size());
         long timeStart = System.nanoTime();
 
         LocalDate minValue = Collections.min(dateSet);
         LocalDate maxValue = Collections.max(dateSet);
+        operationEvent.end();
 
         PerformanceTracker.displayOperationTime(timeStart, "визначення мiнiмальної i максимальної дати в HashSet");
+        operationEvent.commit();
 
         System.out.println("Найменше значення в HashSet: " + minValue);
         System.out.println("Найбільше значення в HashSet: " + maxValue);
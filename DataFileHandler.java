@@ -1,15 +1,24 @@
 import java.io.BufferedReader;
 import java.io.BufferedWriter;
+import java.io.File;
+import java.io.FileInputStream;
 import java.io.FileReader;
 import java.io.FileWriter;
 import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
 import java.time.LocalDate;
 import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.Arrays;
 
 /**
- * Клас DataFileHandler управляє роботою з файлами даних LocalDate.
+ * Клас DataFileHandler управляє роботою з файлами даних LocalDate та часових міток.
  */
 public class DataFileHandler {
+    private static final int READ_BUFFER_SIZE = 1 << 16;
+    private static final int MAX_TIMESTAMP_LENGTH = "2025-12-26T11:24:30Z".length();
+
     /**
      * Завантажує масив об'єктів LocalDate з файлу.
      * 
@@ -17,28 +26,146 @@ public class DataFileHandler {
      * @return Масив об'єктів LocalDate.
      */
     public static LocalDate[] loadArrayFromFile(String filePath) {
+        DateBuffer dateBuffer = new DateBuffer();
+        try {
+            readDates(filePath, null, dateBuffer);
+        } catch (IOException ioException) {
+            ioException.printStackTrace();
+        }
+        return dateBuffer.toArray();
+    }
+
+    /**
+     * Завантажує масив об'єктів LocalDate з файлу, повідомляючи про помилки читання.
+     * На відміну від {@link #loadArrayFromFile(String)}, не повертає
+     * частково прочитаний масив, тож придатний там, де неповні дані гірші за їх відсутність.
+     * 
+     * @param filePath Шлях до файлу з даними.
+     * @param frequencyAnalyzer Аналізатор частот, що заповнюється за той самий прохід (може бути null).
+     * @return Масив об'єктів LocalDate.
+     * @throws IOException Якщо файл не вдалося прочитати повністю.
+     */
+    public static LocalDate[] loadArrayFromFileOrThrow(String filePath, DateFrequencyAnalyzer frequencyAnalyzer) throws IOException {
+        DateBuffer dateBuffer = new DateBuffer();
+        readDates(filePath, frequencyAnalyzer, dateBuffer);
+        return dateBuffer.toArray();
+    }
+
+    /**
+     * Читає файл дат лише для підрахунку частот, не зберігаючи самі дати.
+     * Пам'ять визначається аналізатором, тож так можна обробити файл, що не вміщується в пам'ять.
+     * 
+     * @param filePath Шлях до файлу з даними.
+     * @param frequencyAnalyzer Аналізатор частот, що заповнюється під час читання.
+     * @return Кількість прочитаних дат.
+     */
+    public static int scanFileIntoAnalyzer(String filePath, DateFrequencyAnalyzer frequencyAnalyzer) {
+        try {
+            return readDates(filePath, frequencyAnalyzer, null);
+        } catch (IOException ioException) {
+            ioException.printStackTrace();
+            return 0;
+        }
+    }
+
+    /**
+     * Читає дати з файлу, передаючи кожну аналізатору частот.
+     * 
+     * @param filePath Шлях до файлу з даними.
+     * @param frequencyAnalyzer Аналізатор частот (може бути null).
+     * @param dateBuffer Буфер для збереження дат (може бути null, якщо дати не потрібні).
+     * @return Кількість прочитаних дат.
+     * @throws IOException Якщо файл не вдалося прочитати.
+     */
+    private static int readDates(String filePath, DateFrequencyAnalyzer frequencyAnalyzer, DateBuffer dateBuffer) throws IOException {
         DateTimeFormatter dateFormatter = DateTimeFormatter.ISO_DATE;
-        LocalDate[] temporaryArray = new LocalDate[1000];
         int currentIndex = 0;
+        DataOperationEvents.FileEvent fileEvent = DataOperationEvents.beginFile("load", filePath);
 
-        try (BufferedReader fileReader = new BufferedReader(new FileReader(filePath))) {
+        try (BufferedReader fileReader = new BufferedReader(new FileReader(filePath, StandardCharsets.UTF_8))) {
             String currentLine;
             while ((currentLine = fileReader.readLine()) != null) {
                 // Видаляємо можливі невидимі символи та BOM
                 currentLine = currentLine.trim().replaceAll("^\\uFEFF", "");
                 if (!currentLine.isEmpty()) {
                     LocalDate parsedDate = LocalDate.parse(currentLine, dateFormatter);
-                    temporaryArray[currentIndex++] = parsedDate;
+                    if (dateBuffer != null) {
+                        dateBuffer.add(parsedDate);
+                    }
+                    currentIndex++;
+                    if (frequencyAnalyzer != null) {
+                        frequencyAnalyzer.record(parsedDate);
+                    }
+                }
+            }
+        } finally {
+            commitFileEvent(fileEvent, filePath, currentIndex);
+        }
+
+        return currentIndex;
+    }
+
+    /**
+     * Завантажує часові мітки формату {@code 2025-12-26T11:24:30Z} з файлу як epoch-секунди.
+     * 
+     * <p>Файл читається блоками байтів, а кожен рядок розбирається вручну,
+     * без створення String чи об'єктів дати, тож розбір не створює сміття.</p>
+     * 
+     * @param filePath Шлях до файлу з даними.
+     * @return Масив epoch-секунд у порядку появи у файлі.
+     */
+    public static long[] loadEpochSecondsFromFile(String filePath) {
+        long[] temporaryArray = new long[1000];
+        int currentIndex = 0;
+        byte[] readBuffer = new byte[READ_BUFFER_SIZE];
+        byte[] lineBuffer = new byte[MAX_TIMESTAMP_LENGTH];
+        int lineLength = 0;
+        boolean lineOverflow = false;
+        DataOperationEvents.FileEvent fileEvent = DataOperationEvents.beginFile("load", filePath);
+
+        try (InputStream inputStream = new FileInputStream(filePath)) {
+            int bytesRead;
+            while ((bytesRead = inputStream.read(readBuffer)) > 0) {
+                // рядок може переходити через межу блоку, тож lineBuffer зберігається між блоками
+                for (int i = 0; i < bytesRead; i++) {
+                    byte currentByte = readBuffer[i];
+                    if (currentByte == '\n') {
+                        if (lineOverflow) {
+                            throw new DateTimeParseException("Задовгий рядок у файлі " + filePath, "", currentIndex);
+                        }
+                        if (lineLength > 0) {
+                            if (currentIndex == temporaryArray.length) {
+                                temporaryArray = Arrays.copyOf(temporaryArray, temporaryArray.length * 2);
+                            }
+                            temporaryArray[currentIndex++] = parseEpochSecond(lineBuffer, lineLength);
+                        }
+                        lineLength = 0;
+                    } else if (currentByte > ' ') {
+                        // пропускаємо пробіли, \r та байти BOM (0xEF 0xBB 0xBF є від'ємними)
+                        if (lineLength < lineBuffer.length) {
+                            lineBuffer[lineLength++] = currentByte;
+                        } else {
+                            lineOverflow = true;
+                        }
+                    }
+                }
+            }
+            if (lineOverflow) {
+                throw new DateTimeParseException("Задовгий рядок у файлі " + filePath, "", currentIndex);
+            }
+            if (lineLength > 0) {
+                if (currentIndex == temporaryArray.length) {
+                    temporaryArray = Arrays.copyOf(temporaryArray, temporaryArray.length * 2);
                 }
+                temporaryArray[currentIndex++] = parseEpochSecond(lineBuffer, lineLength);
             }
         } catch (IOException ioException) {
             ioException.printStackTrace();
+        } finally {
+            commitFileEvent(fileEvent, filePath, currentIndex);
         }
 
-        LocalDate[] resultArray = new LocalDate[currentIndex];
-        System.arraycopy(temporaryArray, 0, resultArray, 0, currentIndex);
-
-        return resultArray;
+        return Arrays.copyOf(temporaryArray, currentIndex);
     }
 
     /**
@@ -48,6 +175,8 @@ public class DataFileHandler {
      * @param filePath Шлях до файлу для збереження.
      */
     public static void writeArrayToFile(LocalDate[] dateArray, String filePath) {
+        DataOperationEvents.FileEvent fileEvent = DataOperationEvents.beginFile("write", filePath);
+
         try (BufferedWriter fileWriter = new BufferedWriter(new FileWriter(filePath))) {
             for (LocalDate dateElement : dateArray) {
                 fileWriter.write(dateElement.toString());
@@ -56,5 +185,113 @@ public class DataFileHandler {
         } catch (IOException ioException) {
             ioException.printStackTrace();
         }
+
+        commitFileEvent(fileEvent, filePath, dateArray.length);
+    }
+
+    /**
+     * Розбирає мітку {@code yyyy-MM-ddTHH:mm:ssZ} у epoch-секунди (UTC).
+     * Завершальний {@code Z} необов'язковий: рядок {@code yyyy-MM-ddTHH:mm:ss} довжиною 19
+     * теж вважається міткою UTC. День перевіряється за довжиною місяця з урахуванням
+     * високосних років, тож 2025-02-30 відхиляється, а не переноситься на березень.
+     * Кількість днів обчислюється за алгоритмом days_from_civil без LocalDate.
+     * 
+     * @param line Байти рядка без пробілів і BOM.
+     * @param length Довжина рядка.
+     * @return Кількість секунд від 1970-01-01T00:00:00Z.
+     */
+    static long parseEpochSecond(byte[] line, int length) {
+        if (length != MAX_TIMESTAMP_LENGTH && length != MAX_TIMESTAMP_LENGTH - 1
+                || line[4] != '-' || line[7] != '-' || line[10] != 'T' || line[13] != ':' || line[16] != ':'
+                || length == MAX_TIMESTAMP_LENGTH && line[19] != 'Z') {
+            throw new DateTimeParseException("Невірний формат часової мітки", new String(line, 0, length, StandardCharsets.US_ASCII), 0);
+        }
+
+        long year = parseDigits(line, 0, 4);
+        int month = parseDigits(line, 5, 2);
+        int day = parseDigits(line, 8, 2);
+        int hour = parseDigits(line, 11, 2);
+        int minute = parseDigits(line, 14, 2);
+        int second = parseDigits(line, 17, 2);
+        if (month < 1 || month > 12 || day < 1 || day > lengthOfMonth(year, month)
+                || hour > 23 || minute > 59 || second > 59) {
+            throw new DateTimeParseException("Невірне значення часової мітки", new String(line, 0, length, StandardCharsets.US_ASCII), 0);
+        }
+
+        // зсуваємо початок року на березень, щоб 29 лютого було останнім днем року
+        year -= month <= 2 ? 1 : 0;
+        long era = Math.floorDiv(year, 400);
+        long yearOfEra = year - era * 400;
+        long dayOfYear = (153 * (month + (month > 2 ? -3 : 9)) + 2) / 5 + day - 1;
+        long dayOfEra = yearOfEra * 365 + yearOfEra / 4 - yearOfEra / 100 + dayOfYear;
+        long epochDay = era * 146097 + dayOfEra - 719468;
+
+        return epochDay * 86400 + hour * 3600 + minute * 60 + second;
+    }
+
+    /**
+     * Повертає кількість днів у місяці за григоріанським календарем.
+     * 
+     * @param year Рік.
+     * @param month Місяць від 1 до 12.
+     * @return Кількість днів у місяці.
+     */
+    private static int lengthOfMonth(long year, int month) {
+        if (month == 2) {
+            boolean leapYear = year % 4 == 0 && (year % 100 != 0 || year % 400 == 0);
+            return leapYear ? 29 : 28;
+        }
+        return month == 4 || month == 6 || month == 9 || month == 11 ? 30 : 31;
+    }
+
+    /**
+     * Перетворює послідовність ASCII-цифр на число.
+     */
+    private static int parseDigits(byte[] line, int offset, int count) {
+        int value = 0;
+        for (int i = offset; i < offset + count; i++) {
+            int digit = line[i] - '0';
+            if (digit < 0 || digit > 9) {
+                throw new DateTimeParseException("Очікувалась цифра", new String(line, StandardCharsets.US_ASCII), i);
+            }
+            value = value * 10 + digit;
+        }
+        return value;
+    }
+
+    /**
+     * Завершує подію JFR для операції з файлом.
+     * Розмір файлу визначається лише тоді, коли подію справді буде записано.
+     * 
+     * @param fileEvent Розпочата подія.
+     * @param filePath Шлях до файлу.
+     * @param recordCount Кількість прочитаних або записаних дат.
+     */
+    private static void commitFileEvent(DataOperationEvents.FileEvent fileEvent, String filePath, int recordCount) {
+        fileEvent.end();
+        if (fileEvent.shouldCommit()) {
+            fileEvent.recordCount = recordCount;
+            fileEvent.bytesProcessed = new File(filePath).length();
+            fileEvent.commit();
+        }
+    }
+
+    /**
+     * Буфер дат, що розширюється за потреби, щоб читати файли довільного розміру.
+     */
+    private static class DateBuffer {
+        private LocalDate[] dates = new LocalDate[1000];
+        private int size;
+
+        void add(LocalDate date) {
+            if (size == dates.length) {
+                dates = Arrays.copyOf(dates, dates.length * 2);
+            }
+            dates[size++] = date;
+        }
+
+        LocalDate[] toArray() {
+            return Arrays.copyOf(dates, size);
+        }
     }
 }
@@ -0,0 +1,126 @@
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * Клас DataOperationEvents містить власні події Java Flight Recorder для операцій з даними LocalDate.
+ *
+ * <p>Події дозволяють зіставити тривалість завантаження, сортування, пошуку та побудови
+ * колекцій з паузами GC, алокаціями і safepoint-ами. Поза записом JFR виклик
+ * {@code commit()} зводиться до перевірки прапорця, тож інструментацію можна
+ * лишати увімкненою в робочому середовищі. Стек викликів не записується.</p>
+ *
+ * <p>Приклад використання:</p>
+ * <pre>
+ * {@code
+ * java -XX:StartFlightRecording=filename=dates.jfr BasicDataOperation "2025-01-02"
+ * jfr print --categories "Date Analysis" dates.jfr
+ * }
+ * </pre>
+ */
+final class DataOperationEvents {
+    static final String ARRAY = "LocalDate[]";
+
+    private DataOperationEvents() {
+    }
+
+    /**
+     * Починає подію читання або запису файлу даних.
+     *
+     * @param operation Назва операції (load або write)
+     * @param filePath Шлях до файлу
+     * @return Розпочата подія
+     */
+    static FileEvent beginFile(String operation, String filePath) {
+        FileEvent event = new FileEvent();
+        event.operation = operation;
+        event.filePath = filePath;
+        event.begin();
+        return event;
+    }
+
+    /**
+     * Починає подію сортування, пошуку чи визначення граничних значень.
+     *
+     * @param operation Назва операції (sort, search або minmax)
+     * @param collectionType Тип колекції
+     * @param datasetSize Кількість елементів
+     * @return Розпочата подія
+     */
+    static OperationEvent beginOperation(String operation, String collectionType, int datasetSize) {
+        OperationEvent event = new OperationEvent();
+        event.operation = operation;
+        event.collectionType = collectionType;
+        event.datasetSize = datasetSize;
+        event.begin();
+        return event;
+    }
+
+    /**
+     * Починає подію побудови колекції з масиву.
+     *
+     * @param collectionType Тип колекції
+     * @param datasetSize Кількість елементів
+     * @return Розпочата подія
+     */
+    static CollectionBuildEvent beginCollectionBuild(String collectionType, int datasetSize) {
+        CollectionBuildEvent event = new CollectionBuildEvent();
+        event.collectionType = collectionType;
+        event.datasetSize = datasetSize;
+        event.begin();
+        return event;
+    }
+
+    @Name("dates.FileIO")
+    @Label("Date File I/O")
+    @Description("Завантаження або збереження файлу даних LocalDate")
+    @Category("Date Analysis")
+    @StackTrace(false)
+    static class FileEvent extends Event {
+        @Label("Operation")
+        String operation;
+
+        @Label("File Path")
+        String filePath;
+
+        @Label("Record Count")
+        int recordCount;
+
+        @Label("Bytes Processed")
+        @DataAmount
+        long bytesProcessed;
+    }
+
+    @Name("dates.Operation")
+    @Label("Date Operation")
+    @Description("Сортування, пошук або визначення граничних значень у колекції LocalDate")
+    @Category("Date Analysis")
+    @StackTrace(false)
+    static class OperationEvent extends Event {
+        @Label("Operation")
+        String operation;
+
+        @Label("Collection Type")
+        String collectionType;
+
+        @Label("Dataset Size")
+        int datasetSize;
+    }
+
+    @Name("dates.CollectionBuild")
+    @Label("Date Collection Build")
+    @Description("Побудова колекції з масиву LocalDate")
+    @Category("Date Analysis")
+    @StackTrace(false)
+    static class CollectionBuildEvent extends Event {
+        @Label("Collection Type")
+        String collectionType;
+
+        @Label("Dataset Size")
+        int datasetSize;
+    }
+}
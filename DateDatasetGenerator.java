@@ -0,0 +1,419 @@
+import java.io.BufferedWriter;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+import java.util.Random;
+
+/**
+ * Клас DateDatasetGenerator створює синтетичні файли даних LocalDate довільного розміру.
+ *
+ * <p>Файли мають той самий формат, що читає {@link DataFileHandler}: одна дата
+ * у форматі ISO на рядок, з необов'язковим BOM на початку. Генерація відбувається
+ * потоково, тож пам'ять залежить лише від діапазону дат, а не від кількості записів.</p>
+ *
+ * <p>Параметри генерації:</p>
+ * <ul>
+ *   <li>розподіл дат - uniform (рівномірний), zipf (гарячі дати) або seasonal (сезонні скупчення);</li>
+ *   <li>частка впорядкованих записів - 1.0 дає повністю відсортований файл, 0.0 - випадковий порядок;</li>
+ *   <li>частка дублікатів - частка записів, дата яких уже траплялася у файлі,
+ *       тобто 1 - (кількість унікальних дат / кількість записів);</li>
+ *   <li>BOM на початку файлу та seed генератора випадкових чисел;</li>
+ *   <li>перша дата та кількість днів у діапазоні.</li>
+ * </ul>
+ *
+ * <p>Кількість унікальних дат не може перевищити кількість днів у діапазоні. Якщо діапазон
+ * не задано, він обирається достатньо широким для запитаної частки дублікатів, але не далі
+ * за 9999-12-31; якщо такого діапазону замало, генератор попереджає про це перед записом.</p>
+ *
+ * <p>Приклад використання:</p>
+ * <pre>
+ * {@code
+ * java DateDatasetGenerator list/LocalDate.1m.data 1000000 zipf 0.9 0.1 bom 42
+ * java DateDatasetGenerator list/LocalDate.1m.data 1000000 uniform 0.0 0.5 nobom 42 2020-01-01 3650
+ * }
+ * </pre>
+ */
+public class DateDatasetGenerator {
+    private static final String USAGE_MESSAGE = "Використання: java DateDatasetGenerator <файл> <кількість-записів> " +
+"[uniform|zipf|seasonal] [частка-впорядкованих] [частка-дублікатів] [bom|nobom] [seed] [перша-дата] [кількість-днів]\n" +
+"Приклад:\n" +
+"  java DateDatasetGenerator list/LocalDate.1m.data 1000000 zipf 0.9 0.1 bom 42\n" +
+"  java DateDatasetGenerator list/LocalDate.1m.data 1000000 uniform 0.0 0.5 nobom 42 2020-01-01 3650";
+
+    private static final LocalDate DEFAULT_START_DATE = LocalDate.of(2025, 1, 1);
+    private static final int DEFAULT_SPAN_DAYS = 365;
+    private static final LocalDate FIRST_SUPPORTED_DATE = LocalDate.of(0, 1, 1);
+    private static final LocalDate LAST_SUPPORTED_DATE = LocalDate.of(9999, 12, 31);
+    private static final int MAX_SPAN_DAYS = (int) (LAST_SUPPORTED_DATE.toEpochDay() - FIRST_SUPPORTED_DATE.toEpochDay() + 1);
+    private static final double ZIPF_EXPONENT = 1.1;
+    private static final int SEASONAL_CLUSTERS_PER_YEAR = 4;
+    private static final double SEASONAL_SIGMA_DAYS = 7.0;
+    private static final int SEASONAL_CLUSTER_RADIUS = (int) (6 * SEASONAL_SIGMA_DAYS);
+    private static final int WRITER_BUFFER_SIZE = 1 << 16;
+
+    /**
+     * Розподіл дат у згенерованому наборі.
+     */
+    enum Distribution {
+        UNIFORM, ZIPF, SEASONAL
+    }
+
+    private final long startEpochDay;
+    private final int spanDays;
+    private final Distribution distribution;
+    private final double sortedRatio;
+    private final double duplicateRate;
+    private final boolean writeBom;
+    private final Random random;
+
+    private final long[] dayWeights;
+    private final char[] lineBuffer = new char[10];
+
+    private WeightTree unusedDays;
+    private WeightTree usedDays;
+    private long remainingFresh;
+    private long remainingSamples;
+
+    /**
+     * Конструктор генератора.
+     *
+     * @param startDate Перша дата діапазону
+     * @param spanDays Кількість днів у діапазоні
+     * @param distribution Розподіл дат
+     * @param sortedRatio Частка записів, що йдуть у відсортованому порядку (0.0 - 1.0)
+     * @param duplicateRate Частка записів, що повторюють уже наявну дату (0.0 - 1.0)
+     * @param writeBom Чи записувати BOM на початку файлу
+     * @param seed Початкове значення генератора випадкових чисел
+     */
+    DateDatasetGenerator(LocalDate startDate, int spanDays, Distribution distribution,
+            double sortedRatio, double duplicateRate, boolean writeBom, long seed) {
+        if (spanDays <= 0 || spanDays > MAX_SPAN_DAYS) {
+            throw new IllegalArgumentException("Кількість днів має бути в межах від 1 до " + MAX_SPAN_DAYS + ": " + spanDays);
+        }
+        if (sortedRatio < 0 || sortedRatio > 1 || duplicateRate < 0 || duplicateRate > 1) {
+            throw new IllegalArgumentException("Частки мають бути в межах від 0.0 до 1.0");
+        }
+        if (startDate.isBefore(FIRST_SUPPORTED_DATE) || startDate.toEpochDay() + spanDays - 1 > LAST_SUPPORTED_DATE.toEpochDay()) {
+            throw new IllegalArgumentException("Діапазон дат має лежати між роками 0000 і 9999");
+        }
+
+        this.startEpochDay = startDate.toEpochDay();
+        this.spanDays = spanDays;
+        this.distribution = distribution;
+        this.sortedRatio = sortedRatio;
+        this.duplicateRate = duplicateRate;
+        this.writeBom = writeBom;
+        this.random = new Random(seed);
+
+        this.dayWeights = buildDayWeights();
+    }
+
+    public static void main(String[] args) {
+        if (args.length < 2 || args.length > 9) {
+            System.out.println(USAGE_MESSAGE);
+            return;
+        }
+
+        String filePath = args[0];
+        long recordCount;
+        DateDatasetGenerator generator;
+        try {
+            recordCount = Long.parseLong(args[1]);
+            if (recordCount <= 0) {
+                throw new IllegalArgumentException("Кількість записів має бути додатною: " + recordCount);
+            }
+            Distribution distribution = args.length > 2 ? Distribution.valueOf(args[2].toUpperCase()) : Distribution.UNIFORM;
+            double sortedRatio = args.length > 3 ? Double.parseDouble(args[3]) : 0.0;
+            double duplicateRate = args.length > 4 ? Double.parseDouble(args[4]) : 0.0;
+            boolean writeBom = args.length > 5 && args[5].equalsIgnoreCase("bom");
+            long seed = args.length > 6 ? Long.parseLong(args[6]) : 42L;
+            LocalDate startDate = args.length > 7 ? LocalDate.parse(args[7]) : DEFAULT_START_DATE;
+            int spanDays = args.length > 8 ? Integer.parseInt(args[8]) : defaultSpanDays(startDate, recordCount, duplicateRate);
+
+            generator = new DateDatasetGenerator(startDate, spanDays, distribution, sortedRatio, duplicateRate, writeBom, seed);
+            if (generator.plannedDistinctCount(recordCount) < generator.requestedDistinctCount(recordCount)) {
+                System.out.println("⚠ Діапазон з " + spanDays + " днів вміщує не більше " + spanDays
+                        + " унікальних дат, тож частку дублікатів " + duplicateRate + " не буде досягнуто");
+            }
+        } catch (IllegalArgumentException | DateTimeParseException e) {
+            System.out.println("Помилка: " + e.getMessage());
+            System.out.println(USAGE_MESSAGE);
+            System.exit(1);
+            return;
+        }
+
+        long timeStart = System.nanoTime();
+
+        try {
+            generator.writeDataset(filePath, recordCount);
+        } catch (IOException ioException) {
+            System.out.println("❌ Помилка при записі файлу '" + filePath + "': " + ioException.getMessage());
+            try {
+                // неповний файл зіпсував би подальші вимірювання, тож видаляємо його
+                Files.deleteIfExists(Paths.get(filePath));
+            } catch (IOException deleteException) {
+                System.out.println("❌ Не вдалося видалити неповний файл: " + deleteException.getMessage());
+            }
+            System.exit(1);
+            return;
+        }
+
+        PerformanceTracker.displayOperationTime(timeStart, "генерація " + recordCount + " записів дати");
+        System.out.println("Файл даних: " + filePath);
+
+        long distinctCount = generator.plannedDistinctCount(recordCount);
+        System.out.println("Кiлькiсть унiкальних дат: " + distinctCount);
+        System.out.println("Частка дублікатів: " + (1.0 - (double) distinctCount / recordCount));
+    }
+
+    /**
+     * Записує набір даних заданого розміру у файл.
+     *
+     * <p>Спершу підраховується, скільки впорядкованих записів припадає на кожен день,
+     * після чого дні виводяться за зростанням, а невпорядковані записи
+     * рівномірно вкраплюються між ними. Так файл будь-якого розміру
+     * генерується за два проходи з пам'яттю O(кількість днів).</p>
+     *
+     * @param filePath Шлях до файлу для збереження
+     * @param recordCount Кількість записів
+     * @throws IOException Якщо файл не вдалося записати
+     */
+    public void writeDataset(String filePath, long recordCount) throws IOException {
+        if (recordCount <= 0) {
+            throw new IllegalArgumentException("Кількість записів має бути додатною: " + recordCount);
+        }
+
+        long sortedCount = Math.round(recordCount * sortedRatio);
+        long unsortedCount = recordCount - sortedCount;
+
+        unusedDays = new WeightTree(dayWeights);
+        usedDays = new WeightTree(new long[spanDays]);
+        remainingFresh = plannedDistinctCount(recordCount);
+        remainingSamples = recordCount;
+
+        long[] sortedDayCounts = new long[spanDays];
+        for (long i = 0; i < sortedCount; i++) {
+            sortedDayCounts[nextDay()]++;
+        }
+
+        try (BufferedWriter fileWriter = new BufferedWriter(
+                new OutputStreamWriter(new FileOutputStream(filePath), StandardCharsets.UTF_8), WRITER_BUFFER_SIZE)) {
+            if (writeBom) {
+                fileWriter.write('\uFEFF');
+            }
+
+            int currentDay = 0;
+            long remainingSorted = sortedCount;
+            long remainingUnsorted = unsortedCount;
+
+            while (remainingSorted + remainingUnsorted > 0) {
+                int day;
+                if (remainingUnsorted > 0
+                        && random.nextDouble() * (remainingSorted + remainingUnsorted) < remainingUnsorted) {
+                    day = nextDay();
+                    remainingUnsorted--;
+                } else {
+                    while (sortedDayCounts[currentDay] == 0) {
+                        currentDay++;
+                    }
+                    sortedDayCounts[currentDay]--;
+                    day = currentDay;
+                    remainingSorted--;
+                }
+
+                formatDay(day);
+                fileWriter.write(lineBuffer);
+                fileWriter.newLine();
+            }
+        }
+    }
+
+    /**
+     * Повертає кількість унікальних дат, яку буде згенеровано для заданого розміру.
+     * Вона відповідає частці дублікатів, але не перевищує кількість днів у діапазоні.
+     *
+     * @param recordCount Кількість записів
+     * @return Кількість унікальних дат
+     */
+    public long plannedDistinctCount(long recordCount) {
+        return Math.min(requestedDistinctCount(recordCount), spanDays);
+    }
+
+    /**
+     * Повертає кількість унікальних дат, якої вимагає частка дублікатів без урахування діапазону.
+     */
+    private long requestedDistinctCount(long recordCount) {
+        return Math.max(1, Math.round(recordCount * (1.0 - duplicateRate)));
+    }
+
+    /**
+     * Обирає діапазон, достатній для запитаної частки дублікатів, але не менший за рік
+     * і такий, що не виходить за 9999-12-31.
+     */
+    private static int defaultSpanDays(LocalDate startDate, long recordCount, double duplicateRate) {
+        long requestedDistinct = Math.round(recordCount * (1.0 - duplicateRate));
+        long daysLeft = LAST_SUPPORTED_DATE.toEpochDay() - startDate.toEpochDay() + 1;
+        return (int) Math.max(1, Math.min(daysLeft, Math.max(DEFAULT_SPAN_DAYS, requestedDistinct)));
+    }
+
+    /**
+     * Повертає індекс дня для чергового запису.
+     *
+     * <p>Рівно {@link #plannedDistinctCount(long)} записів отримують нову дату, а решта
+     * повторюють уже використану. Нова дата обирається з невикористаних днів,
+     * повтор - з використаних, в обох випадках пропорційно вазі розподілу.</p>
+     */
+    private int nextDay() {
+        boolean takeFresh = usedDays.total() == 0
+                || remainingFresh > 0 && random.nextDouble() * remainingSamples < remainingFresh;
+        remainingSamples--;
+
+        if (!takeFresh) {
+            return usedDays.find(random.nextLong(usedDays.total()));
+        }
+
+        int day = unusedDays.find(random.nextLong(unusedDays.total()));
+        unusedDays.add(day, -dayWeights[day]);
+        usedDays.add(day, dayWeights[day]);
+        remainingFresh--;
+        return day;
+    }
+
+    /**
+     * Записує дату у форматі yyyy-MM-dd до lineBuffer без створення об'єктів
+     * (алгоритм civil_from_days).
+     */
+    private void formatDay(int day) {
+        long shiftedDay = startEpochDay + day + 719468;
+        long era = Math.floorDiv(shiftedDay, 146097);
+        long dayOfEra = shiftedDay - era * 146097;
+        long yearOfEra = (dayOfEra - dayOfEra / 1460 + dayOfEra / 36524 - dayOfEra / 146096) / 365;
+        long dayOfYear = dayOfEra - (365 * yearOfEra + yearOfEra / 4 - yearOfEra / 100);
+        long monthIndex = (5 * dayOfYear + 2) / 153;
+        int dayOfMonth = (int) (dayOfYear - (153 * monthIndex + 2) / 5 + 1);
+        int month = (int) (monthIndex < 10 ? monthIndex + 3 : monthIndex - 9);
+        int year = (int) (yearOfEra + era * 400 + (month <= 2 ? 1 : 0));
+
+        lineBuffer[0] = (char) ('0' + year / 1000);
+        lineBuffer[1] = (char) ('0' + year / 100 % 10);
+        lineBuffer[2] = (char) ('0' + year / 10 % 10);
+        lineBuffer[3] = (char) ('0' + year % 10);
+        lineBuffer[4] = '-';
+        lineBuffer[5] = (char) ('0' + month / 10);
+        lineBuffer[6] = (char) ('0' + month % 10);
+        lineBuffer[7] = '-';
+        lineBuffer[8] = (char) ('0' + dayOfMonth / 10);
+        lineBuffer[9] = (char) ('0' + dayOfMonth % 10);
+    }
+
+    /**
+     * Будує цілочисельні ваги днів для обраного розподілу.
+     * Ваги масштабуються так, щоб їхня сума вміщувалась у long, і кожна вага не менша за 1,
+     * тож кожен день може з'явитися.
+     */
+    private long[] buildDayWeights() {
+        double[] weights = new double[spanDays];
+
+        switch (distribution) {
+            case ZIPF:
+                // ранги гарячих дат розкидані по діапазону випадковою перестановкою
+                int[] rankOfDay = new int[spanDays];
+                for (int day = 0; day < spanDays; day++) {
+                    rankOfDay[day] = day;
+                }
+                for (int day = spanDays - 1; day > 0; day--) {
+                    int other = random.nextInt(day + 1);
+                    int swap = rankOfDay[day];
+                    rankOfDay[day] = rankOfDay[other];
+                    rankOfDay[other] = swap;
+                }
+                for (int day = 0; day < spanDays; day++) {
+                    weights[day] = 1.0 / Math.pow(rankOfDay[day] + 1, ZIPF_EXPONENT);
+                }
+                break;
+            case SEASONAL:
+                int clusterCount = Math.max(1, (int) ((long) spanDays * SEASONAL_CLUSTERS_PER_YEAR / 365));
+                for (int cluster = 0; cluster < clusterCount; cluster++) {
+                    double center = random.nextDouble() * spanDays;
+                    // за межами шести сигм внесок скупчення зневажливо малий
+                    int firstDay = Math.max(0, (int) center - SEASONAL_CLUSTER_RADIUS);
+                    int lastDay = Math.min(spanDays - 1, (int) center + SEASONAL_CLUSTER_RADIUS);
+                    for (int day = firstDay; day <= lastDay; day++) {
+                        double distance = (day - center) / SEASONAL_SIGMA_DAYS;
+                        weights[day] += Math.exp(-0.5 * distance * distance);
+                    }
+                }
+                break;
+            default:
+                for (int day = 0; day < spanDays; day++) {
+                    weights[day] = 1.0;
+                }
+                break;
+        }
+
+        double maxWeight = 0;
+        for (double weight : weights) {
+            maxWeight = Math.max(maxWeight, weight);
+        }
+
+        long scale = Long.MAX_VALUE / 2 / spanDays;
+        long[] scaledWeights = new long[spanDays];
+        for (int day = 0; day < spanDays; day++) {
+            scaledWeights[day] = Math.max(1, (long) (weights[day] / maxWeight * scale));
+        }
+        return scaledWeights;
+    }
+
+    /**
+     * Дерево Фенвіка над вагами днів: додавання ваги та вибір дня за випадковою
+     * часткою суми виконуються за O(log D).
+     */
+    private static class WeightTree {
+        private final long[] tree;
+
+        WeightTree(long[] weights) {
+            tree = new long[weights.length + 1];
+            for (int i = 1; i <= weights.length; i++) {
+                tree[i] += weights[i - 1];
+                int parent = i + (i & -i);
+                if (parent < tree.length) {
+                    tree[parent] += tree[i];
+                }
+            }
+        }
+
+        void add(int day, long delta) {
+            for (int i = day + 1; i < tree.length; i += i & -i) {
+                tree[i] += delta;
+            }
+        }
+
+        long total() {
+            long sum = 0;
+            for (int i = tree.length - 1; i > 0; i -= i & -i) {
+                sum += tree[i];
+            }
+            return sum;
+        }
+
+        /**
+         * Повертає день, накопичена вага якого вперше перевищує target.
+         */
+        int find(long target) {
+            int position = 0;
+            for (int step = Integer.highestOneBit(tree.length - 1); step > 0; step >>= 1) {
+                int next = position + step;
+                if (next < tree.length && tree[next] <= target) {
+                    position = next;
+                    target -= tree[next];
+                }
+            }
+            return position;
+        }
+    }
+}
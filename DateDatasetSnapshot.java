@@ -0,0 +1,80 @@
+import java.time.LocalDate;
+import java.util.Arrays;
+
+/**
+ * Клас DateDatasetSnapshot - незмінна версія набору даних LocalDate.
+ *
+ * <p>Знімок створюється один раз під час завантаження файлу і більше не змінюється,
+ * тож його можна безпечно читати з будь-якої кількості потоків без блокувань.
+ * Обробники, яким потрібно змінювати масив (наприклад, сортувати його),
+ * отримують власну копію через {@link #copyOfDates()}.</p>
+ */
+public final class DateDatasetSnapshot {
+    private final long version;
+    private final String sourcePath;
+    private final long loadedAtMillis;
+    private final LocalDate[] dates;
+    private final DateFrequencyAnalyzer frequencyAnalyzer;
+
+    /**
+     * Конструктор знімка. Масив передається у володіння знімка і не повинен змінюватися
+     * після виклику; аналізатор частот заморожується, тож змінити його вже неможливо.
+     *
+     * @param version Номер версії набору даних
+     * @param sourcePath Шлях до файлу, з якого завантажено дані
+     * @param dates Масив LocalDate
+     * @param frequencyAnalyzer Частоти дат, підраховані під час завантаження
+     */
+    DateDatasetSnapshot(long version, String sourcePath, LocalDate[] dates, DateFrequencyAnalyzer frequencyAnalyzer) {
+        this.version = version;
+        this.sourcePath = sourcePath;
+        this.loadedAtMillis = System.currentTimeMillis();
+        this.dates = dates;
+        this.frequencyAnalyzer = frequencyAnalyzer;
+        frequencyAnalyzer.freeze();
+    }
+
+    /**
+     * @return Номер версії набору даних
+     */
+    public long getVersion() {
+        return version;
+    }
+
+    /**
+     * @return Шлях до файлу, з якого завантажено дані
+     */
+    public String getSourcePath() {
+        return sourcePath;
+    }
+
+    /**
+     * @return Час завантаження знімка в мілісекундах
+     */
+    public long getLoadedAtMillis() {
+        return loadedAtMillis;
+    }
+
+    /**
+     * @return Кількість записів у знімку
+     */
+    public int size() {
+        return dates.length;
+    }
+
+    /**
+     * Повертає власну копію масиву дат, яку можна вільно змінювати.
+     *
+     * @return Копія масиву LocalDate
+     */
+    public LocalDate[] copyOfDates() {
+        return Arrays.copyOf(dates, dates.length);
+    }
+
+    /**
+     * @return Заморожений аналізатор частот, підрахованих під час завантаження
+     */
+    public DateFrequencyAnalyzer getFrequencyAnalyzer() {
+        return frequencyAnalyzer;
+    }
+}
@@ -0,0 +1,142 @@
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.LocalDate;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Клас DateDatasetStore публікує актуальну версію набору даних LocalDate.
+ *
+ * <p>Поточний {@link DateDatasetSnapshot} зберігається в {@link AtomicReference}:
+ * читачі отримують його одним volatile-читанням без блокувань, а завантажувач
+ * будує наступну версію окремо й атомарно підміняє посилання. Читач, що вже
+ * тримає старий знімок, спокійно дочитує його; стара версія звільняється
+ * збирачем сміття, щойно на неї не лишається посилань.</p>
+ *
+ * <p>Методи класу:</p>
+ * <ul>
+ *   <li>{@link #current()} - Повертає поточний знімок без блокувань.</li>
+ *   <li>{@link #reload()} - Завантажує файл і публікує нову версію.</li>
+ *   <li>{@link #startAutoReload(long)} - Періодично перевіряє файл і перезавантажує його після змін.</li>
+ *   <li>{@link #close()} - Зупиняє фоновий завантажувач.</li>
+ * </ul>
+ *
+ * <p>Нова версія публікується лише після успішного читання й розбору всього файлу:
+ * недоступний, заблокований чи пошкоджений файл лишає попередню версію чинною.</p>
+ */
+public class DateDatasetStore implements AutoCloseable {
+    private final String filePath;
+    private final boolean useSketches;
+    private final AtomicReference<DateDatasetSnapshot> currentSnapshot = new AtomicReference<>();
+    private final ScheduledExecutorService backgroundLoader;
+
+    private long nextVersion = 1;
+    private volatile long lastModifiedMillis = -1;
+    private long lastAttemptedMillis = -1;
+
+    /**
+     * Конструктор сховища.
+     *
+     * @param filePath Шлях до файлу з даними
+     * @param useSketches Чи вести count-min sketch та HyperLogLog під час завантаження
+     */
+    DateDatasetStore(String filePath, boolean useSketches) {
+        this.filePath = filePath;
+        this.useSketches = useSketches;
+        this.backgroundLoader = Executors.newSingleThreadScheduledExecutor(task -> {
+            Thread loaderThread = new Thread(task, "date-dataset-loader");
+            loaderThread.setDaemon(true);
+            return loaderThread;
+        });
+    }
+
+    /**
+     * Повертає поточний знімок даних. Не блокує і не чекає на перезавантаження.
+     *
+     * @return Поточний знімок або null, якщо дані ще не завантажено
+     */
+    public DateDatasetSnapshot current() {
+        return currentSnapshot.get();
+    }
+
+    /**
+     * Завантажує файл і атомарно публікує нову версію знімка.
+     *
+     * <p>Синхронізація стосується лише завантажувачів, щоб версії йшли по порядку;
+     * читачі через {@link #current()} її не торкаються.</p>
+     *
+     * @return Опублікований знімок
+     * @throws IOException Якщо файл недоступний або не прочитався повністю
+     */
+    public synchronized DateDatasetSnapshot reload() throws IOException {
+        long modifiedMillis = readLastModifiedMillis();
+        if (modifiedMillis == -1) {
+            throw new IOException("Файл недоступний: " + filePath);
+        }
+
+        long timeStart = System.nanoTime();
+
+        DateFrequencyAnalyzer frequencyAnalyzer = new DateFrequencyAnalyzer(useSketches);
+        LocalDate[] dates = DataFileHandler.loadArrayFromFileOrThrow(filePath, frequencyAnalyzer);
+        DateDatasetSnapshot nextSnapshot = new DateDatasetSnapshot(nextVersion++, filePath, dates, frequencyAnalyzer);
+
+        currentSnapshot.set(nextSnapshot);
+        lastModifiedMillis = modifiedMillis;
+
+        PerformanceTracker.displayOperationTime(timeStart, "завантаження версії " + nextSnapshot.getVersion() + " набору дати");
+
+        return nextSnapshot;
+    }
+
+    /**
+     * Періодично перевіряє час зміни файлу та перезавантажує дані у фоновому потоці, якщо файл змінився.
+     * Поки файл недоступний (наприклад, під час ротації), перевірки пропускаються.
+     *
+     * @param periodMillis Період перевірки в мілісекундах
+     */
+    public void startAutoReload(long periodMillis) {
+        backgroundLoader.scheduleWithFixedDelay(() -> {
+            long modifiedMillis = readLastModifiedMillis();
+            // пошкоджений файл не перечитується, доки його не змінять знову
+            if (modifiedMillis != -1 && modifiedMillis != lastModifiedMillis && modifiedMillis != lastAttemptedMillis) {
+                lastAttemptedMillis = modifiedMillis;
+                reloadSafely();
+            }
+        }, periodMillis, periodMillis, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Зупиняє фоновий завантажувач. Опублікований знімок лишається доступним.
+     */
+    @Override
+    public void close() {
+        backgroundLoader.shutdownNow();
+    }
+
+    /**
+     * Перезавантажує дані, зберігаючи попередню версію у разі помилки.
+     */
+    private void reloadSafely() {
+        try {
+            reload();
+        } catch (Exception e) {
+            System.out.println("❌ Помилка при перезавантаженні '" + filePath + "': " + e.getMessage());
+        }
+    }
+
+    /**
+     * @return Час останньої зміни файлу або -1, якщо файл недоступний
+     */
+    private long readLastModifiedMillis() {
+        Path dataPath = Paths.get(filePath);
+        try {
+            return Files.getLastModifiedTime(dataPath).toMillis();
+        } catch (IOException ioException) {
+            return -1;
+        }
+    }
+}
@@ -0,0 +1,422 @@
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.PriorityQueue;
+
+/**
+ * Клас DateFrequencyAnalyzer підраховує частоту появи кожної дати LocalDate у потоці даних.
+ *
+ * <p>Лічильники зберігаються у щільному масиві int, індекс якого є зміщенням
+ * epoch-дня від найменшої зустрінутої дати. Масив розширюється за потреби,
+ * тож запис однієї дати коштує O(1) без створення об'єктів.</p>
+ *
+ * <p>Методи класу:</p>
+ * <ul>
+ *   <li>{@link #record(LocalDate)} - Враховує чергову дату з потоку.</li>
+ *   <li>{@link #frequencyOf(LocalDate)} - Повертає точну частоту дати.</li>
+ *   <li>{@link #findTopFrequent(int)} - Знаходить K найчастіших дат за допомогою купи.</li>
+ *   <li>{@link #estimateFrequencyOf(LocalDate)} - Оцінка частоти через count-min sketch.</li>
+ *   <li>{@link #estimateDistinctCount()} - Оцінка кількості унікальних дат через HyperLogLog.</li>
+ * </ul>
+ *
+ * <p>Для потоків, що не вміщуються в пам'ять, {@link #sketchOnly(int)} створює аналізатор
+ * без щільного масиву: частоти та кількість унікальних дат лише оцінюються скетчами,
+ * а K найчастіших дат відбираються з кандидатів під час проходу.</p>
+ */
+public class DateFrequencyAnalyzer {
+    private static final int INITIAL_SPAN = 512;
+    private static final int MAX_SPAN = 1 << 26;
+
+    private int[] dayCounters;
+    private long baseEpochDay;
+    private long minEpochDay = Long.MAX_VALUE;
+    private long maxEpochDay = Long.MIN_VALUE;
+    private long totalCount;
+    private int distinctCount;
+
+    private final boolean exactCounts;
+    private final CountMinSketch countMinSketch;
+    private final HyperLogLog hyperLogLog;
+
+    private final long[] heavyHitterDays;
+    private final long[] heavyHitterEstimates;
+    private int heavyHitterCount;
+    private boolean frozen;
+
+    /**
+     * Конструктор аналізатора.
+     *
+     * @param withSketches Чи вести додатково count-min sketch та HyperLogLog
+     *                     для потоків, що не вміщуються в пам'ять
+     */
+    DateFrequencyAnalyzer(boolean withSketches) {
+        this(true, withSketches, 0);
+    }
+
+    private DateFrequencyAnalyzer(boolean exactCounts, boolean withSketches, int heavyHitterCapacity) {
+        this.exactCounts = exactCounts;
+        this.countMinSketch = withSketches ? new CountMinSketch(2048, 4) : null;
+        this.hyperLogLog = withSketches ? new HyperLogLog(12) : null;
+        this.heavyHitterDays = new long[heavyHitterCapacity];
+        this.heavyHitterEstimates = new long[heavyHitterCapacity];
+    }
+
+    /**
+     * Створює аналізатор лише зі скетчами, пам'ять якого не залежить ні від кількості
+     * записів, ні від діапазону дат.
+     *
+     * @param topCapacity Кількість кандидатів у найчастіші дати, що відстежуються під час проходу
+     * @return Аналізатор без точних лічильників
+     */
+    static DateFrequencyAnalyzer sketchOnly(int topCapacity) {
+        if (topCapacity <= 0) {
+            throw new IllegalArgumentException("Кількість найчастіших дат має бути додатною: " + topCapacity);
+        }
+        return new DateFrequencyAnalyzer(false, true, topCapacity);
+    }
+
+    /**
+     * Враховує чергову дату з потоку даних.
+     *
+     * @param date Дата для врахування
+     * @throws IllegalStateException Якщо аналізатор заморожено
+     * @throws IllegalArgumentException Якщо дата виходить за допустимий діапазон точних лічильників;
+     *                                  у такому разі жоден лічильник не змінюється
+     */
+    public void record(LocalDate date) {
+        if (frozen) {
+            throw new IllegalStateException("Аналізатор частот заморожено, нові дати не приймаються");
+        }
+        long epochDay = date.toEpochDay();
+        // діапазон перевіряється до оновлення лічильників, щоб відхилена дата не потрапила в жоден з них
+        if (exactCounts) {
+            ensureCapacity(epochDay);
+        }
+        totalCount++;
+
+        if (countMinSketch != null) {
+            countMinSketch.add(epochDay);
+            hyperLogLog.add(epochDay);
+        }
+
+        if (!exactCounts) {
+            trackHeavyHitter(epochDay);
+            return;
+        }
+
+        int slot = (int) (epochDay - baseEpochDay);
+        if (dayCounters[slot]++ == 0) {
+            distinctCount++;
+        }
+
+        if (epochDay < minEpochDay) {
+            minEpochDay = epochDay;
+        }
+        if (epochDay > maxEpochDay) {
+            maxEpochDay = epochDay;
+        }
+    }
+
+    /**
+     * Забороняє подальші зміни лічильників. Після виклику аналізатор лише відповідає
+     * на запити, тож його можна безпечно ділити між потоками.
+     */
+    public void freeze() {
+        frozen = true;
+    }
+
+    /**
+     * Повертає точну кількість появ дати у потоці.
+     *
+     * @param date Дата для перевірки
+     * @return Кількість появ дати або -1, якщо точні лічильники вимкнено
+     */
+    public int frequencyOf(LocalDate date) {
+        if (!exactCounts) {
+            return -1;
+        }
+        long epochDay = date.toEpochDay();
+        if (dayCounters == null || epochDay < minEpochDay || epochDay > maxEpochDay) {
+            return 0;
+        }
+        return dayCounters[(int) (epochDay - baseEpochDay)];
+    }
+
+    /**
+     * Знаходить K найчастіших дат.
+     *
+     * <p>Використовує мін-купу розміром K, тож прохід по лічильниках
+     * коштує O(D log K), де D - кількість днів у діапазоні.
+     * При однаковій частоті перевага надається більш ранній даті.
+     * В режимі лише скетчів повертаються кандидати з оцінками count-min sketch.</p>
+     *
+     * @param k Кількість дат у результаті
+     * @return Список дат за спаданням частоти
+     */
+    public List<DateFrequency> findTopFrequent(int k) {
+        if (k <= 0) {
+            throw new IllegalArgumentException("Кількість найчастіших дат має бути додатною: " + k);
+        }
+        if (!exactCounts) {
+            List<DateFrequency> candidates = new ArrayList<>(heavyHitterCount);
+            for (int slot = 0; slot < heavyHitterCount; slot++) {
+                candidates.add(new DateFrequency(heavyHitterDays[slot], heavyHitterEstimates[slot]));
+            }
+            candidates.sort(Collections.reverseOrder(DateFrequencyAnalyzer::compareByRank));
+            return candidates.subList(0, Math.min(k, candidates.size()));
+        }
+        if (distinctCount == 0) {
+            return Collections.emptyList();
+        }
+
+        PriorityQueue<DateFrequency> minHeap = new PriorityQueue<>(k, DateFrequencyAnalyzer::compareByRank);
+
+        int firstSlot = (int) (minEpochDay - baseEpochDay);
+        int lastSlot = (int) (maxEpochDay - baseEpochDay);
+        for (int slot = firstSlot; slot <= lastSlot; slot++) {
+            int count = dayCounters[slot];
+            if (count == 0) {
+                continue;
+            }
+            if (minHeap.size() < k) {
+                minHeap.offer(new DateFrequency(baseEpochDay + slot, count));
+            } else if (count > minHeap.peek().count) {
+                // лічильники обходяться за зростанням дати, тож рівна частота не витісняє раннішу дату
+                minHeap.poll();
+                minHeap.offer(new DateFrequency(baseEpochDay + slot, count));
+            }
+        }
+
+        List<DateFrequency> topDates = new ArrayList<>(minHeap);
+        topDates.sort(Collections.reverseOrder(DateFrequencyAnalyzer::compareByRank));
+        return topDates;
+    }
+
+    /**
+     * Оцінює частоту дати за допомогою count-min sketch.
+     * Оцінка ніколи не буває меншою за точне значення.
+     *
+     * @param date Дата для оцінки
+     * @return Оцінка частоти або -1, якщо скетчі вимкнено
+     */
+    public long estimateFrequencyOf(LocalDate date) {
+        return countMinSketch == null ? -1 : countMinSketch.estimate(date.toEpochDay());
+    }
+
+    /**
+     * Оцінює кількість унікальних дат за допомогою HyperLogLog.
+     *
+     * @return Оцінка кількості унікальних дат або -1, якщо скетчі вимкнено
+     */
+    public long estimateDistinctCount() {
+        return hyperLogLog == null ? -1 : hyperLogLog.estimate();
+    }
+
+    /**
+     * @return Чи ведуться імовірнісні скетчі
+     */
+    public boolean hasSketches() {
+        return countMinSketch != null;
+    }
+
+    /**
+     * Виводить звіт про частоти дат.
+     *
+     * @param dateToCheck Дата, частоту якої потрібно показати окремо
+     * @param topCount Кількість найчастіших дат у звіті
+     */
+    public void printReport(LocalDate dateToCheck, int topCount) {
+        System.out.println("Кiлькiсть записiв: " + totalCount);
+        if (exactCounts) {
+            System.out.println("Кiлькiсть унiкальних дат: " + distinctCount);
+            System.out.println("Частота дати '" + dateToCheck + "': " + frequencyOf(dateToCheck));
+        }
+
+        long timeStart = System.nanoTime();
+
+        List<DateFrequency> topDates = findTopFrequent(topCount);
+
+        PerformanceTracker.displayOperationTime(timeStart, "пошук " + topCount + " найчастіших дат");
+
+        System.out.println(exactCounts ? "Найчастіші дати:" : "Найчастіші дати (оцінка count-min sketch):");
+        for (DateFrequency entry : topDates) {
+            System.out.println("  " + entry.getDate() + " - " + entry.getCount());
+        }
+
+        if (hasSketches()) {
+            System.out.println("Оцінка частоти дати '" + dateToCheck + "' (count-min sketch): " + estimateFrequencyOf(dateToCheck));
+            System.out.println("Оцінка кiлькостi унiкальних дат (HyperLogLog): " + estimateDistinctCount());
+        }
+    }
+
+    /**
+     * Оновлює кандидатів у найчастіші дати для режиму лише скетчів.
+     * Кандидатів небагато, тож лінійний прохід дешевший за підтримку купи зі змінними ключами.
+     */
+    private void trackHeavyHitter(long epochDay) {
+        long estimate = countMinSketch.estimate(epochDay);
+        int minimumSlot = 0;
+        for (int slot = 0; slot < heavyHitterCount; slot++) {
+            if (heavyHitterDays[slot] == epochDay) {
+                heavyHitterEstimates[slot] = estimate;
+                return;
+            }
+            if (heavyHitterEstimates[slot] < heavyHitterEstimates[minimumSlot]) {
+                minimumSlot = slot;
+            }
+        }
+
+        if (heavyHitterCount < heavyHitterDays.length) {
+            heavyHitterDays[heavyHitterCount] = epochDay;
+            heavyHitterEstimates[heavyHitterCount] = estimate;
+            heavyHitterCount++;
+        } else if (estimate > heavyHitterEstimates[minimumSlot]) {
+            heavyHitterDays[minimumSlot] = epochDay;
+            heavyHitterEstimates[minimumSlot] = estimate;
+        }
+    }
+
+    /**
+     * Розширює масив лічильників так, щоб він охоплював заданий epoch-день.
+     */
+    private void ensureCapacity(long epochDay) {
+        if (dayCounters == null) {
+            baseEpochDay = epochDay - INITIAL_SPAN / 2;
+            dayCounters = new int[INITIAL_SPAN];
+            return;
+        }
+
+        long upperEpochDay = baseEpochDay + dayCounters.length;
+        if (epochDay >= baseEpochDay && epochDay < upperEpochDay) {
+            return;
+        }
+
+        // розширюємо геометрично, щоб амортизована вартість запису лишалась O(1)
+        long newBase = epochDay < baseEpochDay ? Math.min(epochDay, baseEpochDay - dayCounters.length) : baseEpochDay;
+        long newUpper = epochDay >= upperEpochDay ? Math.max(epochDay + 1, upperEpochDay + dayCounters.length) : upperEpochDay;
+        if (newUpper - newBase > MAX_SPAN) {
+            throw new IllegalArgumentException("Діапазон дат перевищує " + MAX_SPAN + " днів: " + LocalDate.ofEpochDay(epochDay));
+        }
+
+        int[] grownCounters = new int[(int) (newUpper - newBase)];
+        System.arraycopy(dayCounters, 0, grownCounters, (int) (baseEpochDay - newBase), dayCounters.length);
+        dayCounters = grownCounters;
+        baseEpochDay = newBase;
+    }
+
+    /**
+     * Порядок рангу: менша частота або, при рівній частоті, пізніша дата вважаються меншими.
+     */
+    private static int compareByRank(DateFrequency first, DateFrequency second) {
+        int byCount = Long.compare(first.count, second.count);
+        return byCount != 0 ? byCount : Long.compare(second.epochDay, first.epochDay);
+    }
+
+    /**
+     * Перемішує біти 64-бітного ключа (фіналізатор SplitMix64).
+     */
+    private static long mix64(long key) {
+        key = (key ^ (key >>> 30)) * 0xbf58476d1ce4e5b9L;
+        key = (key ^ (key >>> 27)) * 0x94d049bb133111ebL;
+        return key ^ (key >>> 31);
+    }
+
+    /**
+     * Пара "дата - частота" для результатів пошуку найчастіших дат.
+     */
+    public static class DateFrequency {
+        private final long epochDay;
+        private final long count;
+
+        DateFrequency(long epochDay, long count) {
+            this.epochDay = epochDay;
+            this.count = count;
+        }
+
+        public LocalDate getDate() {
+            return LocalDate.ofEpochDay(epochDay);
+        }
+
+        public long getCount() {
+            return count;
+        }
+    }
+
+    /**
+     * Count-min sketch для оцінки частот з фіксованим обсягом пам'яті.
+     */
+    private static class CountMinSketch {
+        private final int width;
+        private final int depth;
+        private final long[] table;
+
+        CountMinSketch(int width, int depth) {
+            this.width = width;
+            this.depth = depth;
+            this.table = new long[width * depth];
+        }
+
+        void add(long key) {
+            for (int row = 0; row < depth; row++) {
+                table[row * width + bucketOf(key, row)]++;
+            }
+        }
+
+        long estimate(long key) {
+            long minimum = Long.MAX_VALUE;
+            for (int row = 0; row < depth; row++) {
+                minimum = Math.min(minimum, table[row * width + bucketOf(key, row)]);
+            }
+            return minimum;
+        }
+
+        private int bucketOf(long key, int row) {
+            long hash = mix64(key + 0x9e3779b97f4a7c15L * (row + 1));
+            return (int) ((hash >>> 1) % width);
+        }
+    }
+
+    /**
+     * HyperLogLog для оцінки кількості унікальних значень з фіксованим обсягом пам'яті.
+     */
+    private static class HyperLogLog {
+        private final int precision;
+        private final byte[] registers;
+
+        HyperLogLog(int precision) {
+            this.precision = precision;
+            this.registers = new byte[1 << precision];
+        }
+
+        void add(long key) {
+            long hash = mix64(key);
+            int index = (int) (hash >>> (64 - precision));
+            int rank = Math.min(Long.numberOfLeadingZeros(hash << precision), 64 - precision) + 1;
+            if (rank > registers[index]) {
+                registers[index] = (byte) rank;
+            }
+        }
+
+        long estimate() {
+            int registerCount = registers.length;
+            double harmonicSum = 0;
+            int emptyRegisters = 0;
+            for (byte register : registers) {
+                harmonicSum += Math.scalb(1.0, -register);
+                if (register == 0) {
+                    emptyRegisters++;
+                }
+            }
+
+            double alpha = 0.7213 / (1 + 1.079 / registerCount);
+            double estimate = alpha * registerCount * registerCount / harmonicSum;
+
+            // для малих потоків точніший лінійний підрахунок
+            if (estimate <= 2.5 * registerCount && emptyRegisters > 0) {
+                estimate = registerCount * Math.log((double) registerCount / emptyRegisters);
+            }
+            return Math.round(estimate);
+        }
+    }
+}
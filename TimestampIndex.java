@@ -0,0 +1,276 @@
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.Arrays;
+
+/**
+ * Клас TimestampIndex - індекс часових міток на основі відсортованого масиву epoch-секунд.
+ *
+ * <p>На відміну від LocalDate, індекс зберігає повну точність до секунди,
+ * а примітивний масив long не потребує окремого об'єкта на кожен запис.
+ * Усі запити виконуються бінарним пошуком по відсортованому масиву
+ * та одним проходом по знайденому відрізку.</p>
+ *
+ * <p>Методи класу:</p>
+ * <ul>
+ *   <li>{@link #countInRange(long, long)} - Кількість міток у півінтервалі [from, to).</li>
+ *   <li>{@link #countBetween(LocalDate, LocalTime, LocalTime)} - Кількість міток між двома моментами доби.</li>
+ *   <li>{@link #bucketCounts(long, long, long)} - Кількість міток у кожному кошику заданої ширини.</li>
+ *   <li>{@link #slidingWindowCounts(long, long, long, long)} - Кількість міток у ковзних вікнах без повторного сканування.</li>
+ * </ul>
+ */
+public class TimestampIndex {
+    static final long SECONDS_PER_MINUTE = 60;
+    static final long SECONDS_PER_HOUR = 3600;
+    static final long SECONDS_PER_DAY = 86400;
+
+    private final long[] epochSeconds;
+
+    /**
+     * Конструктор індексу. Масив передається у володіння індексу та сортується на місці.
+     *
+     * @param epochSeconds Часові мітки в epoch-секундах (UTC)
+     */
+    TimestampIndex(long[] epochSeconds) {
+        this.epochSeconds = epochSeconds;
+
+        long timeStart = System.nanoTime();
+
+        Arrays.sort(this.epochSeconds);
+
+        PerformanceTracker.displayOperationTime(timeStart, "упорядкування масиву epoch-секунд");
+    }
+
+    /**
+     * @return Кількість міток в індексі
+     */
+    public int size() {
+        return epochSeconds.length;
+    }
+
+    /**
+     * @return Найраніша мітка в epoch-секундах
+     */
+    public long firstEpochSecond() {
+        return epochSeconds[0];
+    }
+
+    /**
+     * @return Найпізніша мітка в epoch-секундах
+     */
+    public long lastEpochSecond() {
+        return epochSeconds[epochSeconds.length - 1];
+    }
+
+    /**
+     * Повертає кількість міток у півінтервалі [fromInclusive, toExclusive).
+     *
+     * @param fromInclusive Початок інтервалу в epoch-секундах
+     * @param toExclusive Кінець інтервалу в epoch-секундах
+     * @return Кількість міток
+     */
+    public int countInRange(long fromInclusive, long toExclusive) {
+        if (toExclusive <= fromInclusive) {
+            return 0;
+        }
+        return lowerBound(toExclusive) - lowerBound(fromInclusive);
+    }
+
+    /**
+     * Повертає кількість міток між двома моментами заданої доби (UTC), наприклад між 09:00 і 10:30.
+     * Якщо кінцевий час не пізніший за початковий, проміжок продовжується до наступної доби,
+     * тож 22:00-02:00 охоплює північ, а 00:00-00:00 - всю добу.
+     *
+     * @param date Дата
+     * @param fromInclusive Початковий час (включно)
+     * @param toExclusive Кінцевий час (не включно)
+     * @return Кількість міток
+     */
+    public int countBetween(LocalDate date, LocalTime fromInclusive, LocalTime toExclusive) {
+        long dayStart = date.toEpochDay() * SECONDS_PER_DAY;
+        long fromSecond = dayStart + fromInclusive.toSecondOfDay();
+        long toSecond = dayStart + toExclusive.toSecondOfDay();
+        if (toSecond <= fromSecond) {
+            toSecond += SECONDS_PER_DAY;
+        }
+        return countInRange(fromSecond, toSecond);
+    }
+
+    /**
+     * Підраховує мітки у послідовних кошиках однакової ширини, наприклад по хвилинах,
+     * годинах чи днях. Відрізок [from, to) проходиться один раз.
+     *
+     * @param fromInclusive Початок першого кошика в epoch-секундах
+     * @param toExclusive Кінець останнього кошика в epoch-секундах
+     * @param bucketSeconds Ширина кошика в секундах
+     * @return Масив кількостей, по одному значенню на кошик
+     */
+    public int[] bucketCounts(long fromInclusive, long toExclusive, long bucketSeconds) {
+        if (bucketSeconds <= 0) {
+            throw new IllegalArgumentException("Ширина кошика має бути додатною: " + bucketSeconds);
+        }
+        if (toExclusive <= fromInclusive) {
+            return new int[0];
+        }
+
+        int[] counts = new int[Math.toIntExact((toExclusive - fromInclusive + bucketSeconds - 1) / bucketSeconds)];
+        int endPosition = lowerBound(toExclusive);
+        for (int position = lowerBound(fromInclusive); position < endPosition; position++) {
+            counts[(int) ((epochSeconds[position] - fromInclusive) / bucketSeconds)]++;
+        }
+        return counts;
+    }
+
+    /**
+     * Підраховує мітки у ковзних вікнах [start, start + windowSeconds), де start
+     * зсувається на stepSeconds від fromInclusive до toExclusive.
+     *
+     * <p>Межі вікна рухаються двома вказівниками лише вперед, тож кожна мітка
+     * додається і вилучається не більше одного разу незалежно від перекриття вікон.</p>
+     *
+     * @param fromInclusive Початок першого вікна в epoch-секундах
+     * @param toExclusive Межа, до якої починаються вікна, в epoch-секундах
+     * @param windowSeconds Ширина вікна в секундах
+     * @param stepSeconds Крок зсуву вікна в секундах
+     * @return Масив кількостей, по одному значенню на вікно
+     */
+    public int[] slidingWindowCounts(long fromInclusive, long toExclusive, long windowSeconds, long stepSeconds) {
+        if (windowSeconds <= 0 || stepSeconds <= 0) {
+            throw new IllegalArgumentException("Ширина вікна і крок мають бути додатними");
+        }
+        if (toExclusive <= fromInclusive) {
+            return new int[0];
+        }
+
+        int[] counts = new int[Math.toIntExact((toExclusive - fromInclusive + stepSeconds - 1) / stepSeconds)];
+        int windowStart = lowerBound(fromInclusive);
+        int windowEnd = windowStart;
+        for (int window = 0; window < counts.length; window++) {
+            long startSecond = fromInclusive + window * stepSeconds;
+            long endSecond = startSecond + windowSeconds;
+            while (windowStart < epochSeconds.length && epochSeconds[windowStart] < startSecond) {
+                windowStart++;
+            }
+            if (windowEnd < windowStart) {
+                windowEnd = windowStart;
+            }
+            while (windowEnd < epochSeconds.length && epochSeconds[windowEnd] < endSecond) {
+                windowEnd++;
+            }
+            counts[window] = windowEnd - windowStart;
+        }
+        return counts;
+    }
+
+    /**
+     * Виводить звіт про часові мітки для заданої дати та проміжку доби.
+     *
+     * @param date Дата запиту
+     * @param fromInclusive Початковий час проміжку
+     * @param toExclusive Кінцевий час проміжку
+     */
+    public void printReport(LocalDate date, LocalTime fromInclusive, LocalTime toExclusive) {
+        if (epochSeconds.length == 0) {
+            System.out.println("Масив часових мiток є пустим.");
+            return;
+        }
+
+        System.out.println("Кiлькiсть часових мiток: " + epochSeconds.length);
+        System.out.println("Найраніша мітка: " + Instant.ofEpochSecond(firstEpochSecond()));
+        System.out.println("Найпізніша мітка: " + Instant.ofEpochSecond(lastEpochSecond()));
+
+        long timeStart = System.nanoTime();
+
+        int rangeCount = countBetween(date, fromInclusive, toExclusive);
+
+        PerformanceTracker.displayOperationTime(timeStart, "пошук часових мiток у проміжку");
+
+        System.out.println("Подій " + date + " з " + fromInclusive + " до " + toExclusive + " (UTC): " + rangeCount);
+
+        long dayStart = date.toEpochDay() * SECONDS_PER_DAY;
+        long rangeStartSecond = dayStart + fromInclusive.toSecondOfDay();
+        long rangeEndSecond = dayStart + toExclusive.toSecondOfDay();
+        if (rangeEndSecond <= rangeStartSecond) {
+            rangeEndSecond += SECONDS_PER_DAY;
+        }
+
+        timeStart = System.nanoTime();
+
+        int[] minuteCounts = bucketCounts(rangeStartSecond, rangeEndSecond, SECONDS_PER_MINUTE);
+
+        PerformanceTracker.displayOperationTime(timeStart, "підрахунок подій по хвилинах у проміжку");
+
+        if (rangeCount > 0) {
+            int busiestMinute = indexOfMax(minuteCounts);
+            long busiestMinuteSecond = rangeStartSecond + busiestMinute * SECONDS_PER_MINUTE;
+            System.out.println("Найбільше подій за хвилину у проміжку: " + minuteCounts[busiestMinute]
+                    + " (" + Instant.ofEpochSecond(busiestMinuteSecond) + ")");
+        }
+
+        timeStart = System.nanoTime();
+
+        int[] hourlyCounts = bucketCounts(dayStart, dayStart + SECONDS_PER_DAY, SECONDS_PER_HOUR);
+
+        PerformanceTracker.displayOperationTime(timeStart, "підрахунок подій по годинах");
+
+        for (int hour = 0; hour < hourlyCounts.length; hour++) {
+            if (hourlyCounts[hour] > 0) {
+                System.out.println("  " + LocalTime.of(hour, 0) + " - " + hourlyCounts[hour]);
+            }
+        }
+
+        long firstDayStart = Math.floorDiv(firstEpochSecond(), SECONDS_PER_DAY) * SECONDS_PER_DAY;
+
+        timeStart = System.nanoTime();
+
+        int[] dailyCounts = bucketCounts(firstDayStart, lastEpochSecond() + 1, SECONDS_PER_DAY);
+
+        PerformanceTracker.displayOperationTime(timeStart, "підрахунок подій по днях");
+
+        int busiestDay = indexOfMax(dailyCounts);
+        System.out.println("Найбільше подій за день: " + dailyCounts[busiestDay]
+                + " (" + LocalDate.ofEpochDay(firstDayStart / SECONDS_PER_DAY + busiestDay) + ")");
+
+        // найнапруженіший тиждень: вікно 7 днів з кроком 1 день по всьому діапазону даних
+        timeStart = System.nanoTime();
+
+        int[] weeklyCounts = slidingWindowCounts(firstDayStart, lastEpochSecond() + 1, 7 * SECONDS_PER_DAY, SECONDS_PER_DAY);
+
+        PerformanceTracker.displayOperationTime(timeStart, "ковзні 7-денні вікна подій");
+
+        int busiestWindow = indexOfMax(weeklyCounts);
+        LocalDate busiestStart = LocalDate.ofEpochDay(firstDayStart / SECONDS_PER_DAY + busiestWindow);
+        System.out.println("Найбільше подій за 7 днів: " + weeklyCounts[busiestWindow]
+                + " (з " + busiestStart + " до " + busiestStart.plusDays(6) + ")");
+    }
+
+    /**
+     * Повертає позицію найбільшого значення; при рівності - найранішу.
+     */
+    private static int indexOfMax(int[] counts) {
+        int maxIndex = 0;
+        for (int index = 1; index < counts.length; index++) {
+            if (counts[index] > counts[maxIndex]) {
+                maxIndex = index;
+            }
+        }
+        return maxIndex;
+    }
+
+    /**
+     * Повертає першу позицію, значення в якій не менше за задану мітку.
+     */
+    private int lowerBound(long epochSecond) {
+        int low = 0;
+        int high = epochSeconds.length;
+        while (low < high) {
+            int middle = (low + high) >>> 1;
+            if (epochSeconds[middle] < epochSecond) {
+                low = middle + 1;
+            } else {
+                high = middle;
+            }
+        }
+        return low;
+    }
+}